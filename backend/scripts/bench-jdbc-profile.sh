@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+# Compares the default configuration with the "prod" JDBC tuning profile.
+#
+# For each profile it boots the jar twice (the second boot shows the ddl-auto skip once the
+# schema fingerprint is recorded), reports Spring's "Started ... in N seconds" time, then
+# measures median and p95 latency of the main list endpoints.
+#
+# SQL logging is switched off for both runs (the default profile has show-sql=true), so the
+# comparison only covers the JDBC driver, pool and Hibernate settings of the prod profile.
+#
+# Usage: MYSQLHOST=... MYSQLPORT=... MYSQLDATABASE=... MYSQLUSER=... MYSQLPASSWORD=... \
+#        scripts/bench-jdbc-profile.sh [requests-per-endpoint]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+REQUESTS="${1:-200}"
+PORT="${BENCH_PORT:-18080}"
+BASE="http://localhost:${PORT}"
+ENDPOINTS=("/api/timesheet-entries" "/api/users" "/api/timesheet-entries/filter?name=Admin&status=submitted")
+
+JAR=$(ls target/timeentrysystem-backend-*.jar 2>/dev/null | grep -v '\.original$' | head -n 1 || true)
+if [ -z "$JAR" ]; then
+    mvn -B -q -DskipTests package
+    JAR=$(ls target/timeentrysystem-backend-*.jar | grep -v '\.original$' | head -n 1)
+fi
+
+APP_PID=""
+cleanup() {
+    if [ -n "$APP_PID" ]; then
+        kill "$APP_PID" 2>/dev/null || true
+        wait "$APP_PID" 2>/dev/null || true
+    fi
+}
+trap cleanup EXIT
+
+start_app() {
+    local profile="$1" log="$2"
+    java -jar "$JAR" --server.port="$PORT" --spring.profiles.active="$profile" \
+        --spring.jpa.show-sql=false >"$log" 2>&1 &
+    APP_PID=$!
+    for _ in $(seq 1 600); do
+        if grep -q "Started TimeEntrySystemApplication" "$log"; then
+            return 0
+        fi
+        if ! kill -0 "$APP_PID" 2>/dev/null; then
+            echo "Application exited during startup, see $log" >&2
+            exit 1
+        fi
+        sleep 0.1
+    done
+    echo "Timed out waiting for startup, see $log" >&2
+    exit 1
+}
+
+stop_app() {
+    cleanup
+    APP_PID=""
+}
+
+latency() {
+    local url="$1"
+    # Warm up pools and statement caches before measuring
+    for _ in $(seq 1 20); do curl -s -o /dev/null "$url"; done
+    for _ in $(seq 1 "$REQUESTS"); do
+        curl -s -o /dev/null -w '%{time_total}\n' "$url"
+    done | sort -n | awk '{ t[NR] = $1 * 1000 } END {
+        printf "median=%.2fms p95=%.2fms", t[int((NR + 1) / 2)], t[int(NR * 0.95)]
+    }'
+}
+
+for profile in default prod; do
+    for boot in 1 2; do
+        log="target/bench-${profile}-${boot}.log"
+        start_app "$profile" "$log"
+        started=$(grep -o "Started TimeEntrySystemApplication in [0-9.]* seconds" "$log" | grep -o "[0-9.]*" | head -n 1)
+        echo "[$profile] boot $boot: started in ${started}s"
+        if [ "$boot" = 2 ]; then
+            for endpoint in "${ENDPOINTS[@]}"; do
+                echo "[$profile]   GET $endpoint $(latency "$BASE$endpoint")"
+            done
+        fi
+        stop_app
+    done
+done
@@ -0,0 +1,93 @@
+#!/usr/bin/env bash
+# Measures time from process launch to the first successful POST /api/auth/login for each
+# startup mode whose artifact has been built:
+#
+#   jar     plain executable jar                    mvn package
+#   aot     same jar with -Dspring.aot.enabled=true  mvn -Paot package
+#   cds     unpacked jar + AppCDS archive           mvn -Pcds package   (or -Paot,cds)
+#   native  GraalVM native executable               mvn -Pnative native:compile
+#
+# Usage: MYSQLHOST=... MYSQLPORT=... MYSQLDATABASE=... MYSQLUSER=... MYSQLPASSWORD=... \
+#        scripts/bench-startup.sh [runs-per-mode]
+# MODES, BENCH_PORT, BENCH_EMAIL and BENCH_PASSWORD can be overridden from the environment.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+PORT="${BENCH_PORT:-18080}"
+EMAIL="${BENCH_EMAIL:-admin@adroit.com}"
+PASSWORD="${BENCH_PASSWORD:-admin123}"
+MODES="${MODES:-jar aot cds native}"
+LOGIN_URL="http://localhost:${PORT}/api/auth/login"
+
+JAR=$(ls target/timeentrysystem-backend-*.jar 2>/dev/null | grep -v '\.original$' | head -n 1 || true)
+NATIVE=target/timeentrysystem-backend
+CDS_RUN=target/cds/run.sh
+
+APP_PID=""
+cleanup() {
+    if [ -n "$APP_PID" ]; then
+        kill "$APP_PID" 2>/dev/null || true
+        wait "$APP_PID" 2>/dev/null || true
+    fi
+    APP_PID=""
+}
+trap cleanup EXIT
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+launch() {
+    local mode="$1" log="$2"
+    case "$mode" in
+        jar)    java -jar "$JAR" --server.port="$PORT" >"$log" 2>&1 & ;;
+        aot)    java -Dspring.aot.enabled=true -jar "$JAR" --server.port="$PORT" >"$log" 2>&1 & ;;
+        cds)    "$CDS_RUN" --server.port="$PORT" >"$log" 2>&1 & ;;
+        native) "$NATIVE" --server.port="$PORT" >"$log" 2>&1 & ;;
+    esac
+    APP_PID=$!
+}
+
+available() {
+    case "$1" in
+        jar)    [ -n "$JAR" ] ;;
+        aot)    [ -n "$JAR" ] && unzip -l "$JAR" | grep -q '__BeanFactoryRegistrations' ;;
+        cds)    [ -x "$CDS_RUN" ] ;;
+        native) [ -x "$NATIVE" ] ;;
+        *)      return 1 ;;
+    esac
+}
+
+for mode in $MODES; do
+    if ! available "$mode"; then
+        echo "[$mode] skipped: artifact not built"
+        continue
+    fi
+    times=()
+    for run in $(seq 1 "$RUNS"); do
+        log="target/bench-startup-${mode}-${run}.log"
+        start=$(now_ms)
+        launch "$mode" "$log"
+        while true; do
+            status=$(curl -s -o /dev/null -w '%{http_code}' -H 'Content-Type: application/json' \
+                -d "{\"email\":\"${EMAIL}\",\"password\":\"${PASSWORD}\"}" "$LOGIN_URL" || true)
+            if [ "$status" = "200" ]; then
+                break
+            fi
+            if ! kill -0 "$APP_PID" 2>/dev/null; then
+                echo "[$mode] exited before a successful login, see $log" >&2
+                exit 1
+            fi
+            sleep 0.05
+        done
+        elapsed=$(( $(now_ms) - start ))
+        times+=("$elapsed")
+        echo "[$mode] run $run: ${elapsed}ms"
+        cleanup
+    done
+    printf '%s\n' "${times[@]}" | sort -n | awk -v mode="$mode" '{ t[NR] = $1 } END {
+        printf "[%s] median=%dms min=%dms max=%dms\n", mode, t[int((NR + 1) / 2)], t[1], t[NR]
+    }'
+done
@@ -0,0 +1,125 @@
+#!/usr/bin/env bash
+# Boots several instances against the same MySQL database at the same time and checks that they
+# coordinate through it:
+#
+#   1. bootstrap: no instance fails to create the default admin, and exactly one admin exists
+#   2. leader election: exactly one instance reports itself leader
+#   3. cache invalidation: a user created on one node shows up in the search index of the others
+#   4. failover: after the leader is stopped, another instance takes over the lease
+#
+# Use an empty schema to exercise the bootstrap race.
+# Usage: MYSQLHOST=... MYSQLPORT=... MYSQLDATABASE=... MYSQLUSER=... MYSQLPASSWORD=... \
+#        scripts/multi-instance-check.sh [instances]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+INSTANCES="${1:-3}"
+BASE_PORT="${BENCH_PORT:-18080}"
+LEASE_WAIT="${LEASE_WAIT:-30}"
+# Search is admin-only (HTTP Basic)
+ADMIN_EMAIL="${ADMIN_EMAIL:-admin@adroit.com}"
+ADMIN_PASSWORD="${ADMIN_PASSWORD:-admin123}"
+
+JAR=$(ls target/timeentrysystem-backend-*.jar 2>/dev/null | grep -v '\.original$' | head -n 1 || true)
+if [ -z "$JAR" ]; then
+    mvn -B -q -DskipTests package
+    JAR=$(ls target/timeentrysystem-backend-*.jar | grep -v '\.original$' | head -n 1)
+fi
+
+declare -a PIDS
+cleanup() {
+    for pid in "${PIDS[@]:-}"; do
+        [ -n "$pid" ] && kill "$pid" 2>/dev/null || true
+    done
+    wait 2>/dev/null || true
+}
+trap cleanup EXIT
+
+fail() {
+    echo "FAIL: $*" >&2
+    exit 1
+}
+
+port() {
+    echo $(( BASE_PORT + $1 ))
+}
+
+is_leader() {
+    curl -s "http://localhost:$(port "$1")/api/cluster/status" | grep -q '"leader":true'
+}
+
+# Wait until exactly one of the running instances is leader; prints its index
+await_single_leader() {
+    local leaders leader
+    for _ in $(seq 1 "$LEASE_WAIT"); do
+        leaders=0
+        for i in $(seq 1 "$INSTANCES"); do
+            [ -n "${PIDS[$i]:-}" ] || continue
+            if is_leader "$i"; then
+                leaders=$((leaders + 1))
+                leader=$i
+            fi
+        done
+        if [ "$leaders" = 1 ]; then
+            echo "$leader"
+            return 0
+        fi
+        sleep 1
+    done
+    return 1
+}
+
+echo "Starting $INSTANCES instances"
+for i in $(seq 1 "$INSTANCES"); do
+    java -jar "$JAR" --server.port="$(port "$i")" --app.cluster.node-id="node-$i" \
+        >"target/multi-instance-$i.log" 2>&1 &
+    PIDS[$i]=$!
+done
+
+for i in $(seq 1 "$INSTANCES"); do
+    for _ in $(seq 1 120); do
+        grep -q "Started TimeEntrySystemApplication" "target/multi-instance-$i.log" && break
+        kill -0 "${PIDS[$i]}" 2>/dev/null || fail "instance $i exited, see target/multi-instance-$i.log"
+        sleep 1
+    done
+done
+
+if grep -l "Failed to create default admin" target/multi-instance-*.log; then
+    fail "bootstrap raced"
+fi
+admins=$(curl -s "http://localhost:$(port 1)/api/users" | grep -o '"email":"admin@adroit.com"' | wc -l)
+[ "$admins" = 1 ] || fail "expected one default admin, found $admins"
+echo "OK bootstrap: one default admin"
+
+leader=$(await_single_leader) || fail "instances did not settle on a single leader"
+echo "OK leader election: node-$leader"
+
+marker="clustercheck$(date +%s)"
+status=$(curl -s -o /dev/null -w '%{http_code}' -H 'Content-Type: application/json' \
+    -d "{\"displayName\":\"${marker}\",\"email\":\"${marker}@example.com\",\"password\":\"${marker}\",\"role\":\"user\"}" \
+    "http://localhost:$(port 1)/api/users")
+[ "$status" = 201 ] || fail "creating user on node-1 returned $status"
+for i in $(seq 2 "$INSTANCES"); do
+    found=""
+    for _ in $(seq 1 20); do
+        if curl -s -u "${ADMIN_EMAIL}:${ADMIN_PASSWORD}" "http://localhost:$(port "$i")/api/search/users?q=${marker}" \
+                | grep -q "$marker"; then
+            found=1
+            break
+        fi
+        sleep 0.5
+    done
+    [ -n "$found" ] || fail "node-$i search index did not pick up the user created on node-1"
+done
+echo "OK cache invalidation: user created on node-1 is searchable on every node"
+
+if [ "$INSTANCES" -gt 1 ]; then
+    kill "${PIDS[$leader]}"
+    wait "${PIDS[$leader]}" 2>/dev/null || true
+    PIDS[$leader]=""
+    successor=$(await_single_leader) || fail "no instance took over after node-$leader stopped"
+    echo "OK failover: node-$successor took over from node-$leader"
+fi
+
+echo "All checks passed"
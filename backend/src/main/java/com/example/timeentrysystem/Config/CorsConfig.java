@@ -17,6 +17,7 @@ public class CorsConfig {
                         .allowedOriginPatterns("*") // Allow all origins in production
                         .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                         .allowedHeaders("*")
+                        .exposedHeaders("X-Read-Your-Writes-Until") // see ReadYourWritesFilter
                         .allowCredentials(true)
                         .maxAge(3600);
             }
@@ -0,0 +1,85 @@
+package com.example.timeentrysystem.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Primary/replica routing, active only when {@code app.datasource.replica.url} is set.
+ *
+ * Read-only transactions go to the replica; everything else, including schema updates at boot,
+ * uses the primary configured through the regular {@code spring.datasource.*} properties.
+ * Inherited repository reads such as findById are read-only transactions of their own, so every
+ * service method that reads before writing must be {@code @Transactional} to keep them on the primary.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica.url:}'.isEmpty()")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${app.datasource.replica.url}") String url,
+            @Value("${app.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${app.datasource.replica.password:${spring.datasource.password}}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setReadOnly(true);
+        // Fail over to the primary quickly instead of waiting out the default 30s
+        dataSource.setConnectionTimeout(2000);
+        // Let the app boot while the replica is down; the health monitor picks it up later
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${app.datasource.replica.max-lag-seconds:5}") long maxLagSeconds) {
+        return new ReplicaHealthMonitor(replica, maxLagSeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaHealthMonitor healthMonitor) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, healthMonitor);
+        routing.afterPropertiesSet();
+        // Defer the physical connection until the transaction's read-only flag is known
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${app.datasource.read-your-writes-window-ms:5000}") long windowMillis) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(windowMillis));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
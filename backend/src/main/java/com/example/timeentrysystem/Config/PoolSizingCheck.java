@@ -0,0 +1,80 @@
+package com.example.timeentrysystem.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Logs each Hikari pool's size against the request thread model once the app is up.
+ *
+ * Recommendations follow HikariCP's sizing rule of thumb, (cores * 2) + 1, and are capped by
+ * the Tomcat worker count and the MySQL server's max_connections shared across instances.
+ */
+@Component
+public class PoolSizingCheck {
+
+    private static final Logger logger = LoggerFactory.getLogger(PoolSizingCheck.class);
+
+    private final List<HikariDataSource> pools;
+    private final int tomcatMaxThreads;
+    private final int expectedInstances;
+
+    @Autowired
+    public PoolSizingCheck(List<HikariDataSource> pools,
+                           @Value("${server.tomcat.threads.max:200}") int tomcatMaxThreads,
+                           @Value("${app.datasource.expected-instances:1}") int expectedInstances) {
+        this.pools = pools;
+        this.tomcatMaxThreads = tomcatMaxThreads;
+        this.expectedInstances = Math.max(1, expectedInstances);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int recommended = Math.min(cores * 2 + 1, tomcatMaxThreads);
+
+        for (HikariDataSource pool : pools) {
+            int maxPoolSize = pool.getMaximumPoolSize();
+            Integer serverMax = readServerMaxConnections(pool);
+
+            logger.info("Pool '{}': maximumPoolSize={}, minimumIdle={}, connectionTimeout={}ms; "
+                            + "cores={}, tomcat.threads.max={}, recommended~{}, mysql max_connections={}",
+                    pool.getPoolName(), maxPoolSize, pool.getMinimumIdle(), pool.getConnectionTimeout(),
+                    cores, tomcatMaxThreads, recommended, serverMax == null ? "unknown" : serverMax);
+
+            if (maxPoolSize > tomcatMaxThreads) {
+                logger.warn("Pool '{}' has more connections ({}) than request threads ({}); the extra connections can never be used",
+                        pool.getPoolName(), maxPoolSize, tomcatMaxThreads);
+            }
+            if (maxPoolSize > recommended * 2) {
+                logger.warn("Pool '{}' size {} is well above ~{} for {} cores; a smaller pool usually gives lower latency",
+                        pool.getPoolName(), maxPoolSize, recommended, cores);
+            }
+            if (serverMax != null && maxPoolSize * expectedInstances > serverMax) {
+                logger.warn("Pool '{}' x {} instances = {} connections exceeds MySQL max_connections {}",
+                        pool.getPoolName(), expectedInstances, maxPoolSize * expectedInstances, serverMax);
+            }
+        }
+    }
+
+    private static Integer readServerMaxConnections(HikariDataSource pool) {
+        try (Connection connection = pool.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT @@max_connections")) {
+            return rs.next() ? rs.getInt(1) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
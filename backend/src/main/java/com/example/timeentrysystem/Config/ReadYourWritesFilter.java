@@ -0,0 +1,91 @@
+package com.example.timeentrysystem.Config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Pins a client's reads to the primary for a short window after it writes, so it never sees a
+ * replica that has not caught up with its own save.
+ *
+ * The deadline travels with the client rather than living on one node: each write sets it as a
+ * cookie and as the {@value #HEADER} response header, and any node that receives it back, as the
+ * cookie or echoed in the same request header, routes that request's reads to the primary.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Read-Your-Writes-Until";
+    private static final String COOKIE = "rywUntil";
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+
+        if (isWrite(request.getMethod())) {
+            // Set before the chain runs, since the response may be committed afterwards;
+            // a failed write only costs a few seconds of primary reads
+            long until = now + windowMillis;
+            // The frontend is on another site, so the cookie is only sent back as SameSite=None; Secure.
+            // Browsers accept Secure cookies from http://localhost, so local development still works.
+            ResponseCookie cookie = ResponseCookie.from(COOKIE, Long.toString(until))
+                    .path("/api")
+                    .maxAge(Duration.ofMillis(windowMillis))
+                    .httpOnly(true)
+                    .secure(true)
+                    .sameSite("None")
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+            response.setHeader(HEADER, Long.toString(until));
+        }
+
+        ReplicaRoutingDataSource.setForcePrimary(readUntil(request) > now);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.setForcePrimary(false);
+        }
+    }
+
+    private static boolean isWrite(String method) {
+        return !("GET".equals(method) || "HEAD".equals(method) || "OPTIONS".equals(method));
+    }
+
+    private static long readUntil(HttpServletRequest request) {
+        long until = parse(request.getHeader(HEADER));
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (COOKIE.equals(cookie.getName())) {
+                    until = Math.max(until, parse(cookie.getValue()));
+                }
+            }
+        }
+        return until;
+    }
+
+    private static long parse(String value) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
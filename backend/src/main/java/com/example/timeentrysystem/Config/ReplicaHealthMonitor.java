@@ -0,0 +1,83 @@
+package com.example.timeentrysystem.Config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Periodically probes the replica and keeps reads on the primary while it is down or lagging.
+ *
+ * Lag comes from SHOW REPLICA STATUS (SHOW SLAVE STATUS on older MySQL). A database that is not
+ * replicating at all, e.g. a second local schema used for testing, reports no rows and counts as in sync.
+ * Only connection failures are detected: a schema without the application's tables still looks
+ * healthy and fails the queries routed to it, so a test schema must be cloned from the primary.
+ */
+public class ReplicaHealthMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    private final DataSource replica;
+    private final long maxLagSeconds;
+    private volatile boolean available = true;
+
+    public ReplicaHealthMonitor(DataSource replica, long maxLagSeconds) {
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public void markUnavailable(SQLException cause) {
+        if (available) {
+            logger.warn("Replica unavailable, routing reads to primary: {}", cause.getMessage());
+        }
+        available = false;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.health-check-interval-ms:5000}")
+    public void check() {
+        boolean healthy;
+        try (Connection connection = replica.getConnection()) {
+            Long lag = readLagSeconds(connection);
+            healthy = lag != null && lag <= maxLagSeconds;
+            if (!healthy && available) {
+                logger.warn("Replica lag {}s exceeds {}s, routing reads to primary", lag, maxLagSeconds);
+            }
+        } catch (SQLException e) {
+            markUnavailable(e);
+            return;
+        }
+        if (healthy && !available) {
+            logger.info("Replica back in sync, resuming read routing");
+        }
+        available = healthy;
+    }
+
+    private Long readLagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+                return rs.next() ? nullableLong(rs, "Seconds_Behind_Source") : Long.valueOf(0);
+            } catch (SQLException e) {
+                try (ResultSet rs = statement.executeQuery("SHOW SLAVE STATUS")) {
+                    return rs.next() ? nullableLong(rs, "Seconds_Behind_Master") : Long.valueOf(0);
+                } catch (SQLException ignored) {
+                    // No REPLICATION CLIENT privilege: connectivity is all we can verify
+                    return 0L;
+                }
+            }
+        }
+    }
+
+    private static Long nullableLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+}
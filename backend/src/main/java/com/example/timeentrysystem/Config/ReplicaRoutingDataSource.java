@@ -0,0 +1,75 @@
+package com.example.timeentrysystem.Config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * Sends connections for read-only transactions to the replica and everything else to the primary.
+ *
+ * Falls back to the primary when the replica is marked unhealthy, when the current request asked
+ * for read-your-writes, or when the replica refuses a connection.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private static final ThreadLocal<Boolean> forcePrimary = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final ReplicaHealthMonitor healthMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaHealthMonitor healthMonitor) {
+        this.primary = primary;
+        this.healthMonitor = healthMonitor;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    public static void setForcePrimary(boolean value) {
+        if (value) {
+            forcePrimary.set(Boolean.TRUE);
+        } else {
+            forcePrimary.remove();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && forcePrimary.get() == null
+                && healthMonitor.isAvailable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (REPLICA.equals(determineCurrentLookupKey())) {
+            try {
+                return super.getConnection();
+            } catch (SQLException e) {
+                healthMonitor.markUnavailable(e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (REPLICA.equals(determineCurrentLookupKey())) {
+            try {
+                return super.getConnection(username, password);
+            } catch (SQLException e) {
+                healthMonitor.markUnavailable(e);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.timeentrysystem.Config;
+
+import com.example.timeentrysystem.TimeEntrySystemApplication;
+import jakarta.persistence.Entity;
+import org.hibernate.cfg.AvailableSettings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Skips Hibernate's {@code ddl-auto=update} schema introspection when the entity model has not
+ * changed since the last successful update.
+ *
+ * A SHA-256 of every entity's fields and mapping annotations is stored in {@code schema_state}
+ * after a boot that ran the update without errors; later boots with the same fingerprint switch
+ * ddl-auto to none.
+ */
+@Component
+@ConditionalOnProperty(name = "app.schema.skip-update-when-current", havingValue = "true")
+public class SchemaFingerprintCustomizer implements HibernatePropertiesCustomizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaFingerprintCustomizer.class);
+    private static final String STATE_ID = "entity-model";
+
+    private final DataSource dataSource;
+    private final String fingerprint;
+    private volatile boolean updateApplied;
+
+    @Autowired
+    public SchemaFingerprintCustomizer(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.fingerprint = computeFingerprint();
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        if (!"update".equals(String.valueOf(hibernateProperties.get(AvailableSettings.HBM2DDL_AUTO)))) {
+            return;
+        }
+        if (fingerprint != null && fingerprint.equals(readStoredFingerprint())) {
+            hibernateProperties.put(AvailableSettings.HBM2DDL_AUTO, "none");
+            logger.info("Entity model unchanged since last schema update, skipping ddl-auto");
+        } else {
+            // Hibernate only logs failed DDL by default; fail the boot instead, so a broken update
+            // is never recorded as applied and the next boot retries it
+            hibernateProperties.put(AvailableSettings.HBM2DDL_HALT_ON_ERROR, "true");
+            updateApplied = true;
+            logger.info("Entity model changed or not recorded, running ddl-auto=update");
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recordFingerprint() {
+        if (!updateApplied || fingerprint == null) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TABLE IF NOT EXISTS schema_state ("
+                        + "id VARCHAR(64) NOT NULL PRIMARY KEY, "
+                        + "fingerprint VARCHAR(64) NOT NULL, "
+                        + "applied_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO schema_state (id, fingerprint) VALUES (?, ?) "
+                            + "ON DUPLICATE KEY UPDATE fingerprint = VALUES(fingerprint), applied_at = CURRENT_TIMESTAMP")) {
+                statement.setString(1, STATE_ID);
+                statement.setString(2, fingerprint);
+                statement.executeUpdate();
+            }
+        } catch (SQLException e) {
+            logger.warn("Could not record schema fingerprint, next boot will run ddl-auto again: {}", e.getMessage());
+        }
+    }
+
+    private String readStoredFingerprint() {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(
+                     "SELECT fingerprint FROM schema_state WHERE id = ?")) {
+            statement.setString(1, STATE_ID);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        } catch (SQLException e) {
+            // Table missing on first boot
+            return null;
+        }
+    }
+
+    static String computeFingerprint() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+        List<String> entityClasses = scanner
+                .findCandidateComponents(TimeEntrySystemApplication.class.getPackageName())
+                .stream()
+                .map(BeanDefinition::getBeanClassName)
+                .sorted()
+                .toList();
+        if (entityClasses.isEmpty()) {
+            // No classpath scanning in a native image; never skip the update there
+            return null;
+        }
+
+        StringBuilder model = new StringBuilder();
+        for (String className : entityClasses) {
+            try {
+                Class<?> type = Class.forName(className);
+                model.append(className).append(Arrays.toString(type.getAnnotations())).append('\n');
+                Field[] fields = type.getDeclaredFields();
+                Arrays.sort(fields, Comparator.comparing(Field::getName));
+                for (Field field : fields) {
+                    model.append(field.getName()).append(':').append(field.getType().getName())
+                            .append(Arrays.toString(field.getAnnotations())).append('\n');
+                }
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Entity class not loadable: " + className, e);
+            }
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(model.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
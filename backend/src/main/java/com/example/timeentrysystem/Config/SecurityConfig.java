@@ -3,10 +3,17 @@ package com.example.timeentrysystem.Config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.ObjectPostProcessor;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import com.example.timeentrysystem.service.UserService;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -37,7 +44,38 @@ public class SecurityConfig {
         return authConfig.getAuthenticationManager();
     }
 
+    /**
+     * Search returns every user's email, role and status, so it needs an admin. The first request
+     * authenticates with HTTP Basic and the result is kept in the session, so later typeahead
+     * requests skip the password hash and the user lookup.
+     */
     @Bean
+    @Order(1)
+    public SecurityFilterChain searchFilterChain(HttpSecurity http) throws Exception {
+        SecurityContextRepository sessionContext = new HttpSessionSecurityContextRepository();
+        http
+            .securityMatcher("/api/search/**")
+            .cors().and()
+            .securityContext().securityContextRepository(sessionContext).and()
+            .authorizeHttpRequests()
+            .anyRequest().hasRole("ADMIN")
+            .and()
+            .authenticationProvider(authenticationProvider())
+            .httpBasic()
+            // Plain 401 without WWW-Authenticate, so the browser does not pop up a login dialog
+            .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+            .withObjectPostProcessor(new ObjectPostProcessor<BasicAuthenticationFilter>() {
+                @Override
+                public <O extends BasicAuthenticationFilter> O postProcess(O filter) {
+                    filter.setSecurityContextRepository(sessionContext);
+                    return filter;
+                }
+            });
+        return http.build();
+    }
+
+    @Bean
+    @Order(2)
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
             .csrf().disable()
@@ -46,6 +84,7 @@ public class SecurityConfig {
             .requestMatchers("/api/users/**").permitAll()
             .requestMatchers("/api/timesheet-entries/**").permitAll()
             .requestMatchers("/api/auth/**").permitAll()
+            .requestMatchers("/api/cluster/**").permitAll()
             .requestMatchers("/error").permitAll()
             .anyRequest().authenticated()
             .and()
@@ -0,0 +1,36 @@
+package com.example.timeentrysystem.Config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+
+/**
+ * Shuts the app down as soon as it is ready when {@code app.training-run=true}, so the CDS build
+ * can capture the classes loaded during startup.
+ *
+ * The property is read at runtime rather than through a bean condition, which AOT would fix at build time.
+ */
+@Component
+public class TrainingRunExit implements ApplicationListener<ApplicationReadyEvent>, Ordered {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrainingRunExit.class);
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!event.getApplicationContext().getEnvironment().getProperty("app.training-run", Boolean.class, false)) {
+            return;
+        }
+        logger.info("Training run complete, exiting");
+        System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+
+    @Override
+    public int getOrder() {
+        // After the other ready listeners, so their classes are part of the archive too
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
@@ -4,12 +4,14 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import com.example.timeentrysystem.entity.User;
 import com.example.timeentrysystem.repository.UserRepository;
 import com.example.timeentrysystem.service.UserService;
 
 @SpringBootApplication
+@EnableScheduling
 public class TimeEntrySystemApplication {
 
     public static void main(String[] args) {
@@ -27,8 +29,11 @@ public class TimeEntrySystemApplication {
                 adminUser.setDisplayName("Admin");
  
                 try {
-                    userService.createUser(adminUser);
-                    System.out.println("Default admin user created with email: admin@example.com and password: admin123");
+                    // The count above may come from a replica; this re-checks on the primary
+                    // under a cluster-wide lock, since another node may be booting too
+                    if (userService.createFirstUser(adminUser)) {
+                        System.out.println("Default admin user created with email: admin@adroit.com and password: admin123");
+                    }
                 } catch (Exception e) {
                     System.err.println("Failed to create default admin user: " + e.getMessage());
                 }
@@ -0,0 +1,35 @@
+package com.example.timeentrysystem.controller;
+
+import com.example.timeentrysystem.service.ClusterEventService;
+import com.example.timeentrysystem.service.LeaderElectionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cluster")
+public class ClusterController {
+
+    private final LeaderElectionService leaderElection;
+    private final ClusterEventService clusterEvents;
+
+    @Autowired
+    public ClusterController(LeaderElectionService leaderElection, ClusterEventService clusterEvents) {
+        this.leaderElection = leaderElection;
+        this.clusterEvents = clusterEvents;
+    }
+
+    @GetMapping("/status")
+    public ResponseEntity<Map<String, Object>> status() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("nodeId", leaderElection.getNodeId());
+        response.put("leader", leaderElection.isLeader());
+        response.put("eventCursor", clusterEvents.getCursor());
+        return ResponseEntity.ok(response);
+    }
+}
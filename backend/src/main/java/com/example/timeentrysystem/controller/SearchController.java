@@ -0,0 +1,49 @@
+package com.example.timeentrysystem.controller;
+
+import com.example.timeentrysystem.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Autowired
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping("/users")
+    public ResponseEntity<List<SearchService.UserHit>> searchUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(searchService.searchUsers(q, limit));
+    }
+
+    @GetMapping("/comments")
+    public ResponseEntity<List<SearchService.CommentHit>> searchComments(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(searchService.searchComments(q, limit));
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("users", searchService.searchUsers(q, limit));
+        response.put("comments", searchService.searchComments(q, limit));
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.timeentrysystem.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "cluster_events",
+        indexes = @Index(name = "idx_cluster_events_created", columnList = "createdAt"))
+public class ClusterEvent {
+
+    public static final String USER = "user";
+    public static final String TIMESHEET = "timesheet";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String topic; // 'user' or 'timesheet'
+
+    @Column(nullable = false)
+    private Long entityId;
+
+    @Column(nullable = false)
+    private String origin; // node id of the writer
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // Getters and Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public void setTopic(String topic) {
+        this.topic = topic;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Long entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public void setOrigin(String origin) {
+        this.origin = origin;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -4,7 +4,8 @@ import jakarta.persistence.*;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "timesheet_entries")
+@Table(name = "timesheet_entries",
+        indexes = @Index(name = "idx_timesheet_employee_week", columnList = "employeeName, weekStart"))
 public class TimesheetEntry {
 
     @Id
@@ -0,0 +1,102 @@
+package com.example.timeentrysystem.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "timesheet_reminders",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"kind", "employeeName", "weekStart"}))
+public class TimesheetReminder {
+
+    public static final String MISSING = "missing";
+    public static final String PENDING_APPROVAL = "pending_approval";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String kind; // 'missing' or 'pending_approval'
+
+    @Column(nullable = false)
+    private String employeeName;
+
+    @Column(nullable = false)
+    private LocalDate weekStart;
+
+    private String email; // recipient for 'missing'; escalations go to admins
+
+    private Long entryId; // the stale entry for 'pending_approval'
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime dispatchedAt;
+
+    // Getters and Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getKind() {
+        return kind;
+    }
+
+    public void setKind(String kind) {
+        this.kind = kind;
+    }
+
+    public String getEmployeeName() {
+        return employeeName;
+    }
+
+    public void setEmployeeName(String employeeName) {
+        this.employeeName = employeeName;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Long getEntryId() {
+        return entryId;
+    }
+
+    public void setEntryId(Long entryId) {
+        this.entryId = entryId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getDispatchedAt() {
+        return dispatchedAt;
+    }
+
+    public void setDispatchedAt(LocalDateTime dispatchedAt) {
+        this.dispatchedAt = dispatchedAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.timeentrysystem.repository;
+
+import com.example.timeentrysystem.entity.ClusterEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ClusterEventRepository extends JpaRepository<ClusterEvent, Long> {
+
+    // Primary-key range scan, so each poll only touches new rows
+    List<ClusterEvent> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    List<ClusterEvent> findByIdIn(Collection<Long> ids);
+
+    @Query("select coalesce(max(e.id), 0) from ClusterEvent e")
+    Long findMaxId();
+
+    @Modifying
+    @Transactional
+    @Query("delete from ClusterEvent e where e.createdAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
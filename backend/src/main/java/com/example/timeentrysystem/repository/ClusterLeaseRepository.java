@@ -0,0 +1,31 @@
+package com.example.timeentrysystem.repository;
+
+import com.example.timeentrysystem.entity.ClusterLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ClusterLeaseRepository extends JpaRepository<ClusterLease, String> {
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO cluster_leases (name, holder, expires_at) "
+            + "VALUES (:name, :holder, NOW(3) + INTERVAL :ttlSeconds SECOND)", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("holder") String holder, @Param("ttlSeconds") int ttlSeconds);
+
+    // Renews our own lease or takes over an expired one; 1 row updated means we hold it
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE cluster_leases SET holder = :holder, expires_at = NOW(3) + INTERVAL :ttlSeconds SECOND "
+            + "WHERE name = :name AND (holder = :holder OR expires_at < NOW(3))", nativeQuery = true)
+    int tryAcquire(@Param("name") String name, @Param("holder") String holder, @Param("ttlSeconds") int ttlSeconds);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE cluster_leases SET expires_at = NOW(3) WHERE name = :name AND holder = :holder", nativeQuery = true)
+    int release(@Param("name") String name, @Param("holder") String holder);
+}
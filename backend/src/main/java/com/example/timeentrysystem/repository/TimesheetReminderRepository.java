@@ -0,0 +1,15 @@
+package com.example.timeentrysystem.repository;
+
+import com.example.timeentrysystem.entity.TimesheetReminder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TimesheetReminderRepository extends JpaRepository<TimesheetReminder, Long> {
+    List<TimesheetReminder> findByWeekStartIn(Collection<LocalDate> weekStarts);
+
+    List<TimesheetReminder> findByDispatchedAtIsNull();
+}
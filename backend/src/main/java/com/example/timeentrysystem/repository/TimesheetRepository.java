@@ -2,9 +2,12 @@ package com.example.timeentrysystem.repository;
 
 import com.example.timeentrysystem.entity.TimesheetEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface TimesheetRepository extends JpaRepository<TimesheetEntry, Long> {
@@ -14,5 +17,43 @@ public interface TimesheetRepository extends JpaRepository<TimesheetEntry, Long>
 
     List<TimesheetEntry> findByEmployeeNameAndWeekStart(String employeeName, LocalDate weekStart);
 
+    // Comment text for the search index, without the daily hour columns
+    @Query("select t.id as id, t.employeeName as employeeName, t.weekStart as weekStart, t.comments as comments "
+            + "from TimesheetEntry t where t.comments is not null and t.comments <> ''")
+    List<CommentView> findAllCommentViews();
+
+    @Query("select t.id as id, t.employeeName as employeeName, t.weekStart as weekStart, t.comments as comments "
+            + "from TimesheetEntry t where t.id = :id")
+    Optional<CommentView> findCommentViewById(@Param("id") Long id);
+
+    interface CommentView {
+        Long getId();
+        String getEmployeeName();
+        LocalDate getWeekStart();
+        String getComments();
+    }
+
+    List<TimesheetEntry> findByStatusAndSubmittedDateBefore(String status, LocalDate cutoff);
+
+    // Every (active user, expected week) pair with no entry, as a single anti-join over generated weeks
+    @Query(value = "WITH RECURSIVE weeks (week_start) AS ("
+            + " SELECT CAST(:firstWeek AS DATE)"
+            + " UNION ALL SELECT week_start + INTERVAL 7 DAY FROM weeks WHERE week_start < :lastWeek)"
+            + " SELECT u.display_name AS employeeName, u.email AS email, w.week_start AS weekStart"
+            + " FROM `user` u CROSS JOIN weeks w"
+            + " WHERE u.status = 'active' AND u.role = :role"
+            + " AND NOT EXISTS (SELECT 1 FROM timesheet_entries t"
+            + " WHERE t.employee_name = u.display_name AND t.week_start = w.week_start)",
+            nativeQuery = true)
+    List<MissingWeekView> findMissingWeeks(@Param("firstWeek") LocalDate firstWeek,
+                                           @Param("lastWeek") LocalDate lastWeek,
+                                           @Param("role") String role);
+
+    interface MissingWeekView {
+        String getEmployeeName();
+        String getEmail();
+        java.sql.Date getWeekStart();
+    }
+
     // Removed findByEmployeeId method as employeeId does not exist in entity
 }
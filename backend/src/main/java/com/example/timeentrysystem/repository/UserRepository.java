@@ -2,8 +2,26 @@ package com.example.timeentrysystem.repository;
 
 import com.example.timeentrysystem.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // Only the columns the search index needs, so the password hash never leaves the database
+    @Query("select u.id as id, u.displayName as displayName, u.email as email, u.role as role, u.status as status from User u")
+    List<SearchView> findAllSearchViews();
+
+    @Query("select u.id as id, u.displayName as displayName, u.email as email, u.role as role, u.status as status from User u where u.id = :id")
+    Optional<SearchView> findSearchViewById(@Param("id") Long id);
+
+    interface SearchView {
+        Long getId();
+        String getDisplayName();
+        String getEmail();
+        String getRole();
+        String getStatus();
+    }
 }
@@ -0,0 +1,9 @@
+package com.example.timeentrysystem.service;
+
+/**
+ * Receives changes written by other nodes so in-process state can be refreshed.
+ */
+public interface ClusterEventListener {
+
+    void onClusterEvent(String topic, Long entityId);
+}
@@ -0,0 +1,130 @@
+package com.example.timeentrysystem.service;
+
+import com.example.timeentrysystem.entity.ClusterEvent;
+import com.example.timeentrysystem.repository.ClusterEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Change notifications shared through the cluster_events table.
+ *
+ * Writers append a row per changed entity inside the same transaction as the change, so a write
+ * never commits without its event; every node polls for rows past its cursor and passes
+ * those from other nodes to the {@link ClusterEventListener}s. Auto-increment ids can commit out of
+ * order, so ids skipped over are re-checked for a short while before being given up on.
+ */
+@Service
+public class ClusterEventService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClusterEventService.class);
+    private static final long GAP_RECHECK_NANOS = 30_000_000_000L;
+    private static final int MAX_GAP = 100;
+
+    private final ClusterEventRepository eventRepository;
+    private final LeaderElectionService leaderElection;
+    private final List<ClusterEventListener> listeners;
+
+    @Value("${app.cluster.event-retention-minutes:60}")
+    private int retentionMinutes;
+
+    private long cursor = -1;
+    // Skipped ids still awaiting their commit, with the time we stop waiting for them
+    private final Map<Long, Long> gaps = new HashMap<>();
+
+    @Autowired
+    public ClusterEventService(ClusterEventRepository eventRepository,
+                               LeaderElectionService leaderElection,
+                               List<ClusterEventListener> listeners) {
+        this.eventRepository = eventRepository;
+        this.leaderElection = leaderElection;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Records a change in the caller's transaction, so the event commits or rolls back with the write itself.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String topic, Long entityId) {
+        if (entityId == null) {
+            return;
+        }
+        ClusterEvent event = new ClusterEvent();
+        event.setTopic(topic);
+        event.setEntityId(entityId);
+        event.setOrigin(leaderElection.getNodeId());
+        event.setCreatedAt(LocalDateTime.now());
+        eventRepository.save(event);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public synchronized void start() {
+        // Taken before the search index rebuild, so other nodes' events written in between are replayed;
+        // this node's own writes reach the index through SearchService's after-commit updates
+        cursor = eventRepository.findMaxId();
+    }
+
+    @Scheduled(fixedDelayString = "${app.cluster.event-poll-ms:1000}")
+    public synchronized void poll() {
+        if (cursor < 0) {
+            return;
+        }
+        List<ClusterEvent> events = new ArrayList<>();
+        if (!gaps.isEmpty()) {
+            events.addAll(eventRepository.findByIdIn(gaps.keySet()));
+            events.forEach(event -> gaps.remove(event.getId()));
+            long now = System.nanoTime();
+            gaps.values().removeIf(deadline -> now - deadline > 0);
+        }
+
+        List<ClusterEvent> fresh = eventRepository.findTop500ByIdGreaterThanOrderByIdAsc(cursor);
+        long deadline = System.nanoTime() + GAP_RECHECK_NANOS;
+        for (ClusterEvent event : fresh) {
+            for (long missing = Math.max(cursor + 1, event.getId() - MAX_GAP); missing < event.getId(); missing++) {
+                gaps.put(missing, deadline);
+            }
+            cursor = event.getId();
+        }
+        events.addAll(fresh);
+
+        for (ClusterEvent event : events) {
+            if (leaderElection.getNodeId().equals(event.getOrigin())) {
+                continue;
+            }
+            for (ClusterEventListener listener : listeners) {
+                try {
+                    listener.onClusterEvent(event.getTopic(), event.getEntityId());
+                } catch (RuntimeException e) {
+                    logger.warn("Listener failed on {} {}: {}", event.getTopic(), event.getEntityId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    public synchronized long getCursor() {
+        return cursor;
+    }
+
+    @Scheduled(fixedDelayString = "${app.cluster.event-prune-ms:60000}")
+    public void prune() {
+        if (leaderElection.isLeader()) {
+            eventRepository.deleteOlderThan(LocalDateTime.now().minusMinutes(retentionMinutes));
+        }
+    }
+}
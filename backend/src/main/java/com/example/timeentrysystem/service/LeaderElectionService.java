@@ -0,0 +1,118 @@
+package com.example.timeentrysystem.service;
+
+import com.example.timeentrysystem.repository.ClusterLeaseRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lease-based leader election over the cluster_leases table.
+ *
+ * Every node tries to renew or take over the lease on a fixed delay, using the database clock for
+ * expiry. A node only considers itself leader until its own last successful renewal plus the TTL,
+ * minus one renewal interval, so it steps down before another node can take over.
+ *
+ * Renewal runs on its own thread rather than the shared task scheduler, so a slow job elsewhere
+ * can never make the leader miss a renewal and lose the lease mid-run.
+ */
+@Service
+public class LeaderElectionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaderElectionService.class);
+    private static final String LEASE_NAME = "leader";
+
+    private final ClusterLeaseRepository leaseRepository;
+    private final String nodeId;
+    private final int ttlSeconds;
+    private final long renewMillis;
+
+    private final ScheduledExecutorService renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "leader-lease");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile long leaderUntilNanos;
+
+    @Autowired
+    public LeaderElectionService(ClusterLeaseRepository leaseRepository,
+                                 @Value("${app.cluster.node-id:}") String nodeId,
+                                 @Value("${app.cluster.lease-ttl-seconds:15}") int ttlSeconds,
+                                 @Value("${app.cluster.lease-renew-ms:5000}") long renewMillis) {
+        this.leaseRepository = leaseRepository;
+        if (nodeId.isBlank()) {
+            // Random, since /api/cluster/status is public; the log ties it to this host and process
+            nodeId = "node-" + UUID.randomUUID().toString().substring(0, 8);
+            logger.info("Cluster node id {} (host {}, pid {})", nodeId, hostName(), ProcessHandle.current().pid());
+        }
+        this.nodeId = nodeId;
+        this.ttlSeconds = ttlSeconds;
+        this.renewMillis = renewMillis;
+        // Not leader until the first renewal; nanoTime may be negative, so 0 is not a safe start
+        this.leaderUntilNanos = System.nanoTime();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public boolean isLeader() {
+        return System.nanoTime() - leaderUntilNanos < 0;
+    }
+
+    @PostConstruct
+    public void start() {
+        renewer.scheduleWithFixedDelay(this::renew, 0, renewMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void renew() {
+        boolean wasLeader = isLeader();
+        long attemptedAt = System.nanoTime();
+        try {
+            leaseRepository.insertIfAbsent(LEASE_NAME, nodeId, ttlSeconds);
+            if (leaseRepository.tryAcquire(LEASE_NAME, nodeId, ttlSeconds) == 1) {
+                leaderUntilNanos = attemptedAt + (ttlSeconds * 1000L - renewMillis) * 1_000_000L;
+            } else {
+                leaderUntilNanos = attemptedAt;
+            }
+        } catch (RuntimeException e) {
+            // Keep the local deadline; leadership lapses on its own if the database stays unreachable
+            logger.warn("Lease renewal failed on {}: {}", nodeId, e.getMessage());
+        }
+        boolean leader = isLeader();
+        if (leader != wasLeader) {
+            logger.info("Node {} {} leadership", nodeId, leader ? "acquired" : "lost");
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        renewer.shutdownNow();
+        if (isLeader()) {
+            leaderUntilNanos = System.nanoTime();
+            try {
+                leaseRepository.release(LEASE_NAME, nodeId);
+            } catch (RuntimeException e) {
+                logger.warn("Could not release lease on shutdown: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
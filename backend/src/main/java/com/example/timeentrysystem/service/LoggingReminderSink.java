@@ -0,0 +1,25 @@
+package com.example.timeentrysystem.service;
+
+import com.example.timeentrysystem.entity.TimesheetReminder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class LoggingReminderSink implements ReminderSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoggingReminderSink.class);
+
+    @Override
+    public void dispatch(List<TimesheetReminder> reminders) {
+        for (TimesheetReminder reminder : reminders) {
+            if (TimesheetReminder.MISSING.equals(reminder.getKind())) {
+                logger.info("Reminder to {} <{}>: no timesheet for week of {}",
+                        reminder.getEmployeeName(), reminder.getEmail(), reminder.getWeekStart());
+            } else {
+                logger.info("Escalation to admins: timesheet {} from {} for week of {} awaiting approval",
+                        reminder.getEntryId(), reminder.getEmployeeName(), reminder.getWeekStart());
+            }
+        }
+    }
+}
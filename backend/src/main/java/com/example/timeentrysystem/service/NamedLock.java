@@ -0,0 +1,61 @@
+package com.example.timeentrysystem.service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * MySQL {@code GET_LOCK} held on a dedicated connection for the duration of a job.
+ *
+ * The server drops the lock if the connection dies, so a crashed node never blocks the others.
+ */
+class NamedLock implements AutoCloseable {
+
+    private final Connection connection;
+    private final String name;
+
+    private NamedLock(Connection connection, String name) {
+        this.connection = connection;
+        this.name = name;
+    }
+
+    /**
+     * Returns the held lock, or null if another session holds it.
+     */
+    static NamedLock tryAcquire(DataSource dataSource, String name) throws SQLException {
+        return acquire(dataSource, name, 0);
+    }
+
+    /**
+     * Waits up to {@code timeoutSeconds} for the lock; returns null if it is still held elsewhere.
+     */
+    static NamedLock acquire(DataSource dataSource, String name, int timeoutSeconds) throws SQLException {
+        Connection connection = dataSource.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            statement.setString(1, name);
+            statement.setInt(2, timeoutSeconds);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (rs.next() && rs.getInt(1) == 1) {
+                    return new NamedLock(connection, name);
+                }
+            }
+        } catch (SQLException e) {
+            connection.close();
+            throw e;
+        }
+        connection.close();
+        return null;
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            statement.setString(1, name);
+            statement.execute();
+        } finally {
+            connection.close();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.timeentrysystem.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Inverted index over lower-cased word tokens, stored as a character trie so that
+ * prefix lookups only walk the branch matching the typed text.
+ *
+ * Not thread-safe; callers guard it with their own lock.
+ */
+class PrefixIndex {
+
+    private static final class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private final Set<Long> postings = new TreeSet<>();
+    }
+
+    private final Node root = new Node();
+
+    // Tokens currently indexed per document, so updates and removals can unlink old postings
+    private final Map<Long, Set<String>> tokensByDoc = new HashMap<>();
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Collections.emptyList();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    void put(Long docId, String... fields) {
+        remove(docId);
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String field : fields) {
+            tokens.addAll(tokenize(field));
+        }
+        if (tokens.isEmpty()) {
+            return;
+        }
+        for (String token : tokens) {
+            Node node = root;
+            for (int i = 0; i < token.length(); i++) {
+                node = node.children.computeIfAbsent(token.charAt(i), c -> new Node());
+            }
+            node.postings.add(docId);
+        }
+        tokensByDoc.put(docId, tokens);
+    }
+
+    void remove(Long docId) {
+        Set<String> tokens = tokensByDoc.remove(docId);
+        if (tokens == null) {
+            return;
+        }
+        for (String token : tokens) {
+            unlink(root, token, 0, docId);
+        }
+    }
+
+    void clear() {
+        root.children.clear();
+        root.postings.clear();
+        tokensByDoc.clear();
+    }
+
+    int size() {
+        return tokensByDoc.size();
+    }
+
+    // Trie nodes below the root, so tests can check that removals prune empty branches
+    int nodeCount() {
+        return countNodes(root) - 1;
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        for (Node child : node.children.values()) {
+            count += countNodes(child);
+        }
+        return count;
+    }
+
+    /**
+     * Returns ids of documents containing, for every query term, a token starting with that term.
+     * Results are in ascending id order and capped at {@code limit}.
+     */
+    List<Long> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        // Walk the most selective (longest) term first so intersections stay small
+        terms.sort((a, b) -> Integer.compare(b.length(), a.length()));
+
+        Set<Long> matches = null;
+        for (String term : terms) {
+            Node node = find(term);
+            if (node == null) {
+                return Collections.emptyList();
+            }
+            Set<Long> termMatches = new TreeSet<>();
+            collect(node, termMatches, matches);
+            matches = termMatches;
+            if (matches.isEmpty()) {
+                return Collections.emptyList();
+            }
+        }
+
+        List<Long> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (Long id : matches) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(id);
+        }
+        return result;
+    }
+
+    private Node find(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        return node;
+    }
+
+    private void collect(Node node, Set<Long> out, Set<Long> filter) {
+        for (Long id : node.postings) {
+            if (filter == null || filter.contains(id)) {
+                out.add(id);
+            }
+        }
+        for (Node child : node.children.values()) {
+            collect(child, out, filter);
+        }
+    }
+
+    private boolean unlink(Node node, String token, int depth, Long docId) {
+        if (depth == token.length()) {
+            node.postings.remove(docId);
+        } else {
+            char c = token.charAt(depth);
+            Node child = node.children.get(c);
+            if (child != null && unlink(child, token, depth + 1, docId)) {
+                node.children.remove(c);
+            }
+        }
+        return node != root && node.postings.isEmpty() && node.children.isEmpty();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.timeentrysystem.service;
+
+import com.example.timeentrysystem.entity.TimesheetReminder;
+
+import java.util.List;
+
+/**
+ * Delivers a batch of reminders. Declare a bean of this type, e.g. for mail or chat delivery, to
+ * replace the {@link LoggingReminderSink} used when there is none (mark one {@code @Primary} if several exist).
+ *
+ * Throwing leaves the whole batch undispatched, so it is retried on the next run.
+ */
+public interface ReminderSink {
+
+    void dispatch(List<TimesheetReminder> reminders) throws Exception;
+}
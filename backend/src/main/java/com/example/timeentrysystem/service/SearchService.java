@@ -0,0 +1,227 @@
+package com.example.timeentrysystem.service;
+
+import com.example.timeentrysystem.entity.ClusterEvent;
+import com.example.timeentrysystem.entity.TimesheetEntry;
+import com.example.timeentrysystem.entity.User;
+import com.example.timeentrysystem.repository.TimesheetRepository;
+import com.example.timeentrysystem.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix search over user names/emails and timesheet comments.
+ *
+ * The index is built once at startup from narrow projections and then kept current
+ * by {@link UserService} and {@link TimesheetEntryService} on every write, so typeahead
+ * queries never touch the database. Writes on other nodes arrive through {@link ClusterEventService}.
+ *
+ * Local updates are applied after their transaction commits, and the rebuild reads its snapshot
+ * while holding the write lock, so an update either is in the snapshot or waits and lands on top of it.
+ */
+@Service
+public class SearchService implements ClusterEventListener {
+
+    public static final int MAX_LIMIT = 50;
+    private static final int SNIPPET_LENGTH = 120;
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchService.class);
+
+    private final UserRepository userRepository;
+    private final TimesheetRepository timesheetRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PrefixIndex userIndex = new PrefixIndex();
+    private final PrefixIndex commentIndex = new PrefixIndex();
+    private final Map<Long, UserHit> users = new HashMap<>();
+    private final Map<Long, CommentHit> comments = new HashMap<>();
+
+    public record UserHit(Long id, String displayName, String email, String role, String status) {
+    }
+
+    public record CommentHit(Long id, String employeeName, LocalDate weekStart, String snippet) {
+    }
+
+    @Autowired
+    public SearchService(UserRepository userRepository, TimesheetRepository timesheetRepository) {
+        this.userRepository = userRepository;
+        this.timesheetRepository = timesheetRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<UserRepository.SearchView> userViews;
+        List<TimesheetRepository.CommentView> commentViews;
+
+        lock.writeLock().lock();
+        try {
+            userViews = userRepository.findAllSearchViews();
+            commentViews = timesheetRepository.findAllCommentViews();
+            userIndex.clear();
+            users.clear();
+            for (UserRepository.SearchView view : userViews) {
+                putUser(new UserHit(view.getId(), view.getDisplayName(), view.getEmail(), view.getRole(), view.getStatus()));
+            }
+            commentIndex.clear();
+            comments.clear();
+            for (TimesheetRepository.CommentView view : commentViews) {
+                putComment(view.getId(), view.getEmployeeName(), view.getWeekStart(), view.getComments());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Search index built with {} users and {} comments in {} ms",
+                userViews.size(), commentViews.size(), System.currentTimeMillis() - start);
+    }
+
+    public void indexUser(User user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        UserHit hit = new UserHit(user.getId(), user.getDisplayName(), user.getEmail(), user.getRole(), user.getStatus());
+        afterCommit(() -> indexUser(hit));
+    }
+
+    public void indexEntry(TimesheetEntry entry) {
+        if (entry == null || entry.getId() == null) {
+            return;
+        }
+        Long id = entry.getId();
+        String employeeName = entry.getEmployeeName();
+        LocalDate weekStart = entry.getWeekStart();
+        String text = entry.getComments();
+        afterCommit(() -> indexComment(id, employeeName, weekStart, text));
+    }
+
+    public void removeEntry(Long id) {
+        afterCommit(() -> unindexEntry(id));
+    }
+
+    private void indexUser(UserHit hit) {
+        lock.writeLock().lock();
+        try {
+            putUser(hit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void indexComment(Long id, String employeeName, LocalDate weekStart, String text) {
+        lock.writeLock().lock();
+        try {
+            putComment(id, employeeName, weekStart, text);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeUser(Long id) {
+        lock.writeLock().lock();
+        try {
+            userIndex.remove(id);
+            users.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unindexEntry(Long id) {
+        lock.writeLock().lock();
+        try {
+            commentIndex.remove(id);
+            comments.remove(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Read-write so the lookups go to the primary, which already has the other node's commit
+    @Override
+    @Transactional
+    public void onClusterEvent(String topic, Long entityId) {
+        if (ClusterEvent.USER.equals(topic)) {
+            userRepository.findSearchViewById(entityId).ifPresentOrElse(
+                    view -> indexUser(new UserHit(view.getId(), view.getDisplayName(), view.getEmail(), view.getRole(), view.getStatus())),
+                    () -> removeUser(entityId));
+        } else if (ClusterEvent.TIMESHEET.equals(topic)) {
+            timesheetRepository.findCommentViewById(entityId).ifPresentOrElse(
+                    view -> indexComment(view.getId(), view.getEmployeeName(), view.getWeekStart(), view.getComments()),
+                    () -> unindexEntry(entityId));
+        }
+    }
+
+    public List<UserHit> searchUsers(String query, int limit) {
+        lock.readLock().lock();
+        try {
+            List<UserHit> hits = new ArrayList<>();
+            for (Long id : userIndex.search(query, clamp(limit))) {
+                hits.add(users.get(id));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<CommentHit> searchComments(String query, int limit) {
+        lock.readLock().lock();
+        try {
+            List<CommentHit> hits = new ArrayList<>();
+            for (Long id : commentIndex.search(query, clamp(limit))) {
+                hits.add(comments.get(id));
+            }
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putUser(UserHit hit) {
+        users.put(hit.id(), hit);
+        userIndex.put(hit.id(), hit.displayName(), hit.email());
+    }
+
+    private void putComment(Long id, String employeeName, LocalDate weekStart, String text) {
+        if (text == null || text.isBlank()) {
+            commentIndex.remove(id);
+            comments.remove(id);
+            return;
+        }
+        String snippet = text.length() > SNIPPET_LENGTH ? text.substring(0, SNIPPET_LENGTH) + "..." : text;
+        comments.put(id, new CommentHit(id, employeeName, weekStart, snippet));
+        commentIndex.put(id, text);
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
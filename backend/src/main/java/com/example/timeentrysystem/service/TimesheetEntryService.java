@@ -1,9 +1,11 @@
 package com.example.timeentrysystem.service;
 
+import com.example.timeentrysystem.entity.ClusterEvent;
 import com.example.timeentrysystem.entity.TimesheetEntry;
 import com.example.timeentrysystem.repository.TimesheetRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,31 +16,46 @@ public class TimesheetEntryService {
     @Autowired
     private TimesheetRepository repository;
 
+    @Autowired
+    private SearchService searchService;
+
+    @Autowired
+    private ClusterEventService clusterEvents;
+
+    @Transactional(readOnly = true)
     public List<TimesheetEntry> getAllEntries() {
         return repository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public List<TimesheetEntry> getEntriesByEmployeeName(String employeeName) {
         return repository.findByEmployeeName(employeeName);
     }
 
 
 
+    @Transactional
     public Optional<TimesheetEntry> getEntryById(Long id) {
         return repository.findById(id);
     }
 
+    @Transactional
     public boolean existsByEmployeeNameAndWeekStart(String employeeName, java.time.LocalDate weekStart) {
         return !repository.findByEmployeeNameAndWeekStart(employeeName, weekStart).isEmpty();
     }
 
+    @Transactional
     public TimesheetEntry createEntry(TimesheetEntry entry) {
         if (existsByEmployeeNameAndWeekStart(entry.getEmployeeName(), entry.getWeekStart())) {
             throw new IllegalArgumentException("You already entered the data for this week");
         }
-        return repository.save(entry);
+        TimesheetEntry saved = repository.save(entry);
+        clusterEvents.publish(ClusterEvent.TIMESHEET, saved.getId());
+        searchService.indexEntry(saved);
+        return saved;
     }
 
+    @Transactional
     public TimesheetEntry updateEntry(Long id, TimesheetEntry updatedEntry) {
         return repository.findById(id)
                 .map(entry -> {
@@ -56,11 +73,15 @@ public class TimesheetEntryService {
                     entry.setSat(updatedEntry.getSat());
                     entry.setSun(updatedEntry.getSun());
                     entry.setComments(updatedEntry.getComments());
-                    return repository.save(entry);
+                    TimesheetEntry saved = repository.save(entry);
+                    clusterEvents.publish(ClusterEvent.TIMESHEET, saved.getId());
+                    searchService.indexEntry(saved);
+                    return saved;
                 })
                 .orElse(null);
     }
 
+    @Transactional
     public TimesheetEntry approveEntry(Long id) {
         return repository.findById(id)
                 .map(entry -> {
@@ -70,6 +91,7 @@ public class TimesheetEntryService {
                 .orElse(null);
     }
 
+    @Transactional
     public TimesheetEntry rejectEntry(Long id) {
         return repository.findById(id)
                 .map(entry -> {
@@ -79,10 +101,14 @@ public class TimesheetEntryService {
                 .orElse(null);
     }
 
+    @Transactional
     public void deleteEntry(Long id) {
         repository.deleteById(id);
+        clusterEvents.publish(ClusterEvent.TIMESHEET, id);
+        searchService.removeEntry(id);
     }
 
+    @Transactional
     public TimesheetEntry updateStatus(Long id, String status) {
         return repository.findById(id)
                 .map(entry -> {
@@ -92,10 +118,12 @@ public class TimesheetEntryService {
                 .orElse(null);
     }
 
+    @Transactional(readOnly = true)
     public List<TimesheetEntry> findByName(String name) {
         return repository.findByEmployeeName(name);
     }
 
+    @Transactional(readOnly = true)
     public List<TimesheetEntry> findByNameAndStatus(String name, String status) {
         return repository.findByEmployeeNameAndStatus(name, status);
     }
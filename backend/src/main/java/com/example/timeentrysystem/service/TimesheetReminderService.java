@@ -0,0 +1,162 @@
+package com.example.timeentrysystem.service;
+
+import com.example.timeentrysystem.entity.TimesheetEntry;
+import com.example.timeentrysystem.entity.TimesheetReminder;
+import com.example.timeentrysystem.repository.TimesheetReminderRepository;
+import com.example.timeentrysystem.repository.TimesheetRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Finds active users with no timesheet for recent weeks and submitted timesheets waiting on
+ * approval past the SLA, records one reminder per (kind, employee, week), and hands undispatched
+ * reminders to the {@link ReminderSink}.
+ *
+ * Scheduled runs happen on the cluster leader, under a MySQL named lock; the unique key on
+ * timesheet_reminders makes reruns harmless.
+ */
+@Service
+public class TimesheetReminderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TimesheetReminderService.class);
+    private static final String LOCK_NAME = "timeentrysystem.timesheet-reminders";
+
+    private final TimesheetRepository timesheetRepository;
+    private final TimesheetReminderRepository reminderRepository;
+    private final ReminderSink sink;
+    private final DataSource dataSource;
+    private final LeaderElectionService leaderElection;
+
+    @Value("${app.reminders.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.reminders.lookback-weeks:1}")
+    private int lookbackWeeks;
+
+    @Value("${app.reminders.approval-sla-days:3}")
+    private int approvalSlaDays;
+
+    @Value("${app.reminders.user-role:user}")
+    private String userRole;
+
+    @Autowired
+    public TimesheetReminderService(TimesheetRepository timesheetRepository,
+                                    TimesheetReminderRepository reminderRepository,
+                                    ObjectProvider<ReminderSink> sinks,
+                                    DataSource dataSource,
+                                    LeaderElectionService leaderElection) {
+        this.timesheetRepository = timesheetRepository;
+        this.reminderRepository = reminderRepository;
+        this.sink = sinks.getIfAvailable(LoggingReminderSink::new);
+        this.dataSource = dataSource;
+        this.leaderElection = leaderElection;
+    }
+
+    @Scheduled(cron = "${app.reminders.cron:0 0 9 * * MON-FRI}")
+    public void scheduledRun() {
+        // Only the leader tries; the named lock still guards manual runs and leadership handovers
+        if (enabled && leaderElection.isLeader()) {
+            run(LocalDate.now());
+        }
+    }
+
+    /**
+     * Returns the number of reminders dispatched, or -1 if another node holds the lock.
+     */
+    public int run(LocalDate today) {
+        try (NamedLock lock = NamedLock.tryAcquire(dataSource, LOCK_NAME)) {
+            if (lock == null) {
+                logger.info("Timesheet reminder run skipped, another node holds the lock");
+                return -1;
+            }
+            int recorded = record(today);
+            int dispatched = dispatchPending();
+            logger.info("Timesheet reminder run: {} new, {} dispatched", recorded, dispatched);
+            return dispatched;
+        } catch (SQLException e) {
+            logger.error("Timesheet reminder run failed", e);
+            return 0;
+        }
+    }
+
+    private int record(LocalDate today) {
+        // Weeks start on Monday; only completed weeks are expected
+        LocalDate lastWeek = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).minusWeeks(1);
+        LocalDate firstWeek = lastWeek.minusWeeks(Math.max(1, lookbackWeeks) - 1L);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<TimesheetReminder> candidates = new ArrayList<>();
+        for (TimesheetRepository.MissingWeekView missing : timesheetRepository.findMissingWeeks(firstWeek, lastWeek, userRole)) {
+            TimesheetReminder reminder = new TimesheetReminder();
+            reminder.setKind(TimesheetReminder.MISSING);
+            reminder.setEmployeeName(missing.getEmployeeName());
+            reminder.setEmail(missing.getEmail());
+            reminder.setWeekStart(missing.getWeekStart().toLocalDate());
+            reminder.setCreatedAt(now);
+            candidates.add(reminder);
+        }
+        for (TimesheetEntry entry : timesheetRepository.findByStatusAndSubmittedDateBefore("submitted", today.minusDays(approvalSlaDays))) {
+            TimesheetReminder reminder = new TimesheetReminder();
+            reminder.setKind(TimesheetReminder.PENDING_APPROVAL);
+            reminder.setEmployeeName(entry.getEmployeeName());
+            reminder.setWeekStart(entry.getWeekStart());
+            reminder.setEntryId(entry.getId());
+            reminder.setCreatedAt(now);
+            candidates.add(reminder);
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        Set<LocalDate> weeks = new HashSet<>();
+        candidates.forEach(reminder -> weeks.add(reminder.getWeekStart()));
+        Set<String> existing = new HashSet<>();
+        reminderRepository.findByWeekStartIn(weeks).forEach(reminder -> existing.add(key(reminder)));
+
+        List<TimesheetReminder> fresh = new ArrayList<>();
+        for (TimesheetReminder reminder : candidates) {
+            if (existing.add(key(reminder))) {
+                fresh.add(reminder);
+            }
+        }
+        reminderRepository.saveAll(fresh);
+        return fresh.size();
+    }
+
+    private int dispatchPending() {
+        List<TimesheetReminder> pending = reminderRepository.findByDispatchedAtIsNull();
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        try {
+            sink.dispatch(pending);
+        } catch (Exception e) {
+            logger.warn("Reminder sink failed, {} reminders will be retried next run: {}", pending.size(), e.getMessage());
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        pending.forEach(reminder -> reminder.setDispatchedAt(now));
+        reminderRepository.saveAll(pending);
+        return pending.size();
+    }
+
+    private static String key(TimesheetReminder reminder) {
+        return reminder.getKind() + '|' + reminder.getEmployeeName() + '|' + reminder.getWeekStart();
+    }
+}
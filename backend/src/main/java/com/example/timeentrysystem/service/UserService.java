@@ -1,5 +1,6 @@
 package com.example.timeentrysystem.service;
  
+import com.example.timeentrysystem.entity.ClusterEvent;
 import com.example.timeentrysystem.entity.User;
 import com.example.timeentrysystem.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,7 +10,12 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
  
+import javax.sql.DataSource;
+import java.sql.SQLException;
 import java.util.Collections;
 import java.util.Optional;
  
@@ -18,13 +24,24 @@ public class UserService implements UserDetailsService {
  
     private final UserRepository userRepository;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final SearchService searchService;
+    private final ClusterEventService clusterEvents;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
  
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, SearchService searchService,
+                       ClusterEventService clusterEvents, DataSource dataSource,
+                       PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.passwordEncoder = new BCryptPasswordEncoder();
+        this.searchService = searchService;
+        this.clusterEvents = clusterEvents;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
  
+    @Transactional
     public User createUser(User user) throws IllegalArgumentException {
         Optional<User> existingUser = userRepository.findByEmail(user.getEmail());
         if (existingUser.isPresent()) {
@@ -32,18 +49,48 @@ public class UserService implements UserDetailsService {
         }
         user.setPassword(passwordEncoder.encode(user.getPassword()));
         user.setStatus("active");
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        clusterEvents.publish(ClusterEvent.USER, saved.getId());
+        searchService.indexUser(saved);
+        return saved;
     }
  
+    /**
+     * Creates the user only if the table is empty. Serialised across nodes with a database lock,
+     * so instances booting together create exactly one.
+     *
+     * Not transactional itself: the count and insert run in a read-write transaction (so on the
+     * primary) that commits before the lock is released, so the next node's count sees the user.
+     */
+    public boolean createFirstUser(User user) {
+        try (NamedLock lock = NamedLock.acquire(dataSource, "timeentrysystem.bootstrap", 30)) {
+            if (lock == null) {
+                throw new IllegalStateException("Timed out waiting for the bootstrap lock");
+            }
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (userRepository.count() > 0) {
+                    return false;
+                }
+                createUser(user);
+                return true;
+            }));
+        } catch (SQLException e) {
+            throw new IllegalStateException("Bootstrap lock unavailable: " + e.getMessage(), e);
+        }
+    }
+ 
+    @Transactional
     public User getUserByEmail(String email) {
         return userRepository.findByEmail(email).orElse(null);
     }
  
+    @Transactional(readOnly = true)
     public java.util.List<User> getAllUsers() {
         return userRepository.findAll();
     }
  
     @Override
+    @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
             .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
@@ -59,6 +106,7 @@ public class UserService implements UserDetailsService {
         );
     }
  
+    @Transactional
     public boolean changePassword(String email, String currentPassword, String newPassword) {
         Optional<User> userOpt = userRepository.findByEmail(email);
         if (userOpt.isEmpty()) {
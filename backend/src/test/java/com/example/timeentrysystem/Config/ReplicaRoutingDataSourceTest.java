@@ -0,0 +1,97 @@
+package com.example.timeentrysystem.Config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaHealthMonitor healthMonitor;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        primary = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName("routing-primary").build();
+        replica = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName("routing-replica").build();
+        healthMonitor = new ReplicaHealthMonitor(replica, 5);
+        routing = newRouting(replica);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReplicaRoutingDataSource.setForcePrimary(false);
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+        assertThat(connectedTo(routing)).contains("routing-replica");
+    }
+
+    @Test
+    void readWriteTransactionGoesToPrimary() throws SQLException {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(connectedTo(routing)).contains("routing-primary");
+    }
+
+    @Test
+    void forcePrimaryKeepsReadsOnPrimary() throws SQLException {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingDataSource.setForcePrimary(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(connectedTo(routing)).contains("routing-primary");
+    }
+
+    @Test
+    void unhealthyReplicaKeepsReadsOnPrimaryUntilNextCheck() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        healthMonitor.markUnavailable(new SQLException("replica down"));
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        // H2 has no replica status to report, so a successful probe counts as in sync
+        healthMonitor.check();
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    void refusedReplicaConnectionFallsBackToPrimary() throws SQLException {
+        routing = newRouting(new DriverManagerDataSource("jdbc:unreachable:replica"));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(connectedTo(routing)).contains("routing-primary");
+        assertThat(healthMonitor.isAvailable()).isFalse();
+    }
+
+    private ReplicaRoutingDataSource newRouting(DataSource replicaTarget) {
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replicaTarget, healthMonitor);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    private static String connectedTo(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getMetaData().getURL();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.timeentrysystem.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixIndexTest {
+
+    @Test
+    void matchesTokenPrefixesCaseInsensitively() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1L, "Jane Doe", "jane.doe@adroit.com");
+        index.put(2L, "John Smith", "john@adroit.com");
+
+        assertThat(index.search("ja", 10)).containsExactly(1L);
+        assertThat(index.search("J", 10)).containsExactly(1L, 2L);
+        assertThat(index.search("ADROIT", 10)).containsExactly(1L, 2L);
+        assertThat(index.search("x", 10)).isEmpty();
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void requiresEveryTermToMatch() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1L, "client meeting and code review");
+        index.put(2L, "code freeze");
+        index.put(3L, "client onboarding");
+
+        assertThat(index.search("cli rev", 10)).containsExactly(1L);
+        assertThat(index.search("code", 10)).containsExactly(1L, 2L);
+        assertThat(index.search("code onb", 10)).isEmpty();
+    }
+
+    @Test
+    void capsResultsInIdOrder() {
+        PrefixIndex index = new PrefixIndex();
+        for (long id = 5; id >= 1; id--) {
+            index.put(id, "overtime");
+        }
+
+        assertThat(index.search("over", 3)).containsExactly(1L, 2L, 3L);
+        assertThat(index.search("over", 0)).isEmpty();
+    }
+
+    @Test
+    void putReplacesPreviousTokens() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1L, "holiday");
+        index.put(1L, "sick leave");
+
+        assertThat(index.search("hol", 10)).isEmpty();
+        assertThat(index.search("sick", 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void removePrunesBranchesNoLongerUsed() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1L, "team");
+        int sharedOnly = index.nodeCount();
+        index.put(2L, "teammate training");
+
+        index.remove(2L);
+
+        assertThat(index.search("teamm", 10)).isEmpty();
+        assertThat(index.search("tr", 10)).isEmpty();
+        assertThat(index.search("tea", 10)).containsExactly(1L);
+        assertThat(index.nodeCount()).isEqualTo(sharedOnly);
+
+        index.remove(1L);
+
+        assertThat(index.nodeCount()).isZero();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    void blankDocumentIsNotIndexed() {
+        PrefixIndex index = new PrefixIndex();
+        index.put(1L, "notes");
+        index.put(1L, (String) null);
+
+        assertThat(index.search("no", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+        assertThat(index.nodeCount()).isZero();
+    }
+}
@@ -2,6 +2,7 @@ import React, { useState, useEffect } from 'react';
 import { Plus, X } from 'lucide-react';
 import { mockUsers, mockAdminUsers } from '../../data/mockData';
 import { User } from '../../types';
+import { apiFetch } from '../../config/api';
 
 const UserManagement: React.FC = () => {
   // Initialize users from backend API or mock data
@@ -9,7 +10,7 @@ const UserManagement: React.FC = () => {
 
   // Fetch users from backend API on component mount
   useEffect(() => {
-    fetch('/api/users')
+    apiFetch('/api/users')
       .then(res => res.json())
       .then(data => setUsers(data))
       .catch(() => {
@@ -47,7 +48,7 @@ const UserManagement: React.FC = () => {
     }
 
     // Call backend API to add user
-    fetch('/api/users', {
+    apiFetch('/api/users', {
       method: 'POST',
       headers: {
         'Content-Type': 'application/json'
@@ -7,3 +7,21 @@ export const API_BASE_URL = 'https://timeportalapplication-production.up.railway
 
 // Helper function to build API endpoints
 export const buildApiEndpoint = (endpoint: string) => `${API_BASE_URL}${endpoint}`;
+
+// Read-your-writes: after a write the backend returns a deadline until which this client's reads
+// must go to the primary database. Echo it on later requests so whichever instance serves them honours it.
+const READ_YOUR_WRITES_HEADER = 'X-Read-Your-Writes-Until';
+let readYourWritesUntil = 0;
+
+export const apiFetch = async (input: string, init: RequestInit = {}): Promise<Response> => {
+  const headers = new Headers(init.headers);
+  if (readYourWritesUntil > Date.now()) {
+    headers.set(READ_YOUR_WRITES_HEADER, String(readYourWritesUntil));
+  }
+  const response = await fetch(input, { ...init, headers, credentials: 'include' });
+  const until = Number(response.headers.get(READ_YOUR_WRITES_HEADER));
+  if (until > readYourWritesUntil) {
+    readYourWritesUntil = until;
+  }
+  return response;
+};
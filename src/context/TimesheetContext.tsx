@@ -2,6 +2,7 @@ import React, { createContext, useState, useEffect, ReactNode } from 'react';
 import { Timesheet, TimeEntry, DailyTotal } from '../types';
 import { getStartOfWeek, getEndOfWeek, formatDateToLocalString } from '../utils/dateUtils';
 import { useAuth } from '../hooks/useAuth';
+import { apiFetch } from '../config/api';
 
 interface TimesheetContextType {
   timesheets: Timesheet[];
@@ -82,7 +83,7 @@ const fetchTimesheets = async () => {
         // Railway production setup
         ? 'https://timeportalapplication-production.up.railway.app/api/timesheet-entries'
         : `https://timeportalapplication-production.up.railway.app/api/timesheet-entries?employeeName=${encodeURIComponent(currentUser.displayName)}`;
-      const response = await fetch(url);
+      const response = await apiFetch(url);
       // MODIFICATION END
 
       if (!response.ok) {
@@ -233,7 +234,7 @@ const fetchTimesheets = async () => {
         : 'https://timeportalapplication-production.up.railway.app/api/timesheet-entries';
       const method = timesheetToSave.id > 0 ? 'PUT' : 'POST';
 
-      const response = await fetch(url, {
+      const response = await apiFetch(url, {
         method: method,
         headers: { 'Content-Type': 'application/json' },
         body: JSON.stringify(payload),
@@ -374,7 +375,7 @@ const guardPending = (): boolean => {
 
     try {
       const url = `http://localhost:8080/api/timesheet-entries/${id}/status`;
-      const response = await fetch(url, {
+      const response = await apiFetch(url, {
         method: 'PUT',
         headers: { 'Content-Type': 'application/json' },
         body: JSON.stringify({ status: newStatus, comments }),
@@ -1,5 +1,6 @@
 import React, { createContext, useState, useEffect, ReactNode, useContext } from 'react';
 import { User } from '../types';
+import { apiFetch } from '../config/api';
 
 interface UserContextType {
   users: User[];
@@ -29,7 +30,7 @@ export const UserProvider: React.FC<UserProviderProps> = ({ children }) => {
       // const response = await fetch('http://localhost:8080/api/users');
       
       // Railway production setup
-      const response = await fetch('https://timeportalapplication-production.up.railway.app/api/users');
+      const response = await apiFetch('https://timeportalapplication-production.up.railway.app/api/users');
       if (!response.ok) {
         throw new Error('Failed to fetch users');
       }